@@ -0,0 +1,76 @@
+package com.teqani.teqani_youtube_player;
+
+import java.util.Map;
+
+/**
+ * Attempt bookkeeping for the readiness watchdog of {@link TeqaniYoutubePlayerView}.
+ *
+ * The view owns the timers; this class decides which attempt is current, whether a
+ * failed attempt is retried and how long to back off before the next one.
+ */
+final class ReadyWatchdog {
+    static final long DEFAULT_TIMEOUT_MS = 15000;
+    static final int DEFAULT_MAX_RETRIES = 3;
+    static final int MAX_RETRIES_LIMIT = 10;
+    static final long RETRY_BASE_DELAY_MS = 500;
+    static final long RETRY_MAX_DELAY_MS = 8000;
+
+    // 500ms << 4 already reaches RETRY_MAX_DELAY_MS; larger shifts would only overflow
+    private static final int MAX_BACKOFF_SHIFT = 4;
+
+    private final long timeoutMs;
+    private final int maxRetries;
+    private int attempt = 0;
+
+    ReadyWatchdog(long timeoutMs, int maxRetries) {
+        // A timeout no player can meet would only guarantee failure
+        this.timeoutMs = timeoutMs > 0 ? timeoutMs : DEFAULT_TIMEOUT_MS;
+        this.maxRetries = Math.min(Math.max(0, maxRetries), MAX_RETRIES_LIMIT);
+    }
+
+    /** Reads readyTimeoutMs and readyMaxRetries from the view's creationParams. */
+    static ReadyWatchdog fromCreationParams(Map<String, Object> creationParams) {
+        long timeoutMs = DEFAULT_TIMEOUT_MS;
+        int maxRetries = DEFAULT_MAX_RETRIES;
+        if (creationParams != null && creationParams.get("readyTimeoutMs") instanceof Number) {
+            timeoutMs = ((Number) creationParams.get("readyTimeoutMs")).longValue();
+        }
+        if (creationParams != null && creationParams.get("readyMaxRetries") instanceof Number) {
+            maxRetries = ((Number) creationParams.get("readyMaxRetries")).intValue();
+        }
+        return new ReadyWatchdog(timeoutMs, maxRetries);
+    }
+
+    /** Starts a new attempt and returns its 1-based number. */
+    int startAttempt() {
+        return ++attempt;
+    }
+
+    /** Whether callbacks for the given attempt still apply; older attempts were torn down. */
+    boolean isCurrent(int attemptNumber) {
+        return attemptNumber == attempt;
+    }
+
+    /** Whether another attempt should follow the given failed attempt. */
+    boolean shouldRetry(int failedAttempt) {
+        return failedAttempt <= maxRetries;
+    }
+
+    /** Backoff before the attempt following the given failed attempt. */
+    static long retryDelayMs(int failedAttempt) {
+        int shift = Math.min(Math.max(failedAttempt - 1, 0), MAX_BACKOFF_SHIFT);
+        return Math.min(RETRY_BASE_DELAY_MS << shift, RETRY_MAX_DELAY_MS);
+    }
+
+    long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    int getMaxRetries() {
+        return maxRetries;
+    }
+
+    int getAttempt() {
+        return attempt;
+    }
+}
@@ -1,5 +1,8 @@
 package com.teqani.teqani_youtube_player;
 
+import android.os.Handler;
+import android.os.Looper;
+
 import androidx.annotation.NonNull;
 
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
@@ -10,18 +13,40 @@ import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.MethodChannel.MethodCallHandler;
 import io.flutter.plugin.common.MethodChannel.Result;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 /** TeqaniYoutubePlayerPlugin */
 public class TeqaniYoutubePlayerPlugin implements FlutterPlugin, MethodCallHandler {
   private MethodChannel playerChannel;
   private MethodChannel factoryChannel;
-  private EventChannel eventChannel;
-  private Map<String, EventChannel.EventSink> eventSinks = new HashMap<>();
+
+  // Per-view event state for this engine, keyed by view id
+  private final Object eventLock = new Object();
+  private final Map<String, EventChannel.EventSink> eventSinks = new HashMap<>();
+  private final Map<String, ViewEventBuffer> eventBuffers = new HashMap<>();
+  private final Set<String> flushScheduled = new HashSet<>();
+  private Executor mainExecutor;
+
+  public TeqaniYoutubePlayerPlugin() {
+    this(null);
+  }
+
+  // Tests pass a direct executor to deliver events synchronously
+  TeqaniYoutubePlayerPlugin(Executor mainExecutor) {
+    this.mainExecutor = mainExecutor;
+  }
 
   @Override
   public void onAttachedToEngine(@NonNull FlutterPluginBinding flutterPluginBinding) {
+    // Warm up the WebView provider on main thread idle, if the app opted in
+    WebViewWarmUp.start(flutterPluginBinding.getApplicationContext());
+
     // Setup player channel
     playerChannel = new MethodChannel(flutterPluginBinding.getBinaryMessenger(), "com.teqani.youtube_player/player");
     playerChannel.setMethodCallHandler(this);
@@ -30,32 +55,12 @@ public class TeqaniYoutubePlayerPlugin implements FlutterPlugin, MethodCallHandl
     factoryChannel = new MethodChannel(flutterPluginBinding.getBinaryMessenger(), "com.teqani.youtube_player/factory");
     factoryChannel.setMethodCallHandler(this);
     
-    // Setup event channel
-    eventChannel = new EventChannel(flutterPluginBinding.getBinaryMessenger(), "com.teqani.youtube_player/events");
-    eventChannel.setStreamHandler(new EventChannel.StreamHandler() {
-      @Override
-      public void onListen(Object arguments, EventChannel.EventSink events) {
-        if (arguments instanceof String) {
-          String id = (String) arguments;
-          eventSinks.put(id, events);
-        }
-      }
-
-      @Override
-      public void onCancel(Object arguments) {
-        if (arguments instanceof String) {
-          String id = (String) arguments;
-          eventSinks.remove(id);
-        }
-      }
-    });
-    
-    // Register view factory
+    // Register view factory; each view opens its own event channel
     flutterPluginBinding
       .getPlatformViewRegistry()
       .registerViewFactory(
         "com.teqani.youtube_player/player_view", 
-        new TeqaniYoutubePlayerViewFactory(flutterPluginBinding.getBinaryMessenger())
+        new TeqaniYoutubePlayerViewFactory(flutterPluginBinding.getBinaryMessenger(), this)
       );
   }
 
@@ -73,6 +78,12 @@ public class TeqaniYoutubePlayerPlugin implements FlutterPlugin, MethodCallHandl
       case "getPlatformVersion":
         result.success("Android " + android.os.Build.VERSION.RELEASE);
         break;
+      case "isWarmUpComplete":
+        result.success(isWebViewWarmUpComplete());
+        break;
+      case "getWarmUpStats":
+        result.success(WebViewWarmUp.getStats());
+        break;
       case "initialize":
         // Handle initialization with parameters from the call.arguments map
         try {
@@ -119,7 +130,10 @@ public class TeqaniYoutubePlayerPlugin implements FlutterPlugin, MethodCallHandl
         result.success(null);
         break;
       case "dispose":
-        // Implement dispose
+        // Only a view id releases event state; other views are left untouched
+        if (call.arguments instanceof String) {
+          disposeEventBuffer((String) call.arguments);
+        }
         result.success(null);
         break;
       default:
@@ -132,11 +146,139 @@ public class TeqaniYoutubePlayerPlugin implements FlutterPlugin, MethodCallHandl
   public void onDetachedFromEngine(@NonNull FlutterPluginBinding binding) {
     playerChannel.setMethodCallHandler(null);
     factoryChannel.setMethodCallHandler(null);
-    eventChannel.setStreamHandler(null);
+    clearEventBuffers();
+  }
+
+  /** Returns whether the WebView warm-up started at engine attach has finished. */
+  public static boolean isWebViewWarmUpComplete() {
+    return WebViewWarmUp.isComplete();
+  }
+
+  /**
+   * Sends an event to the Flutter subscriber of the given view id.
+   *
+   * Events are buffered until Flutter listens on the view's event channel and are
+   * delivered on the main thread. If the subscriber falls behind, the oldest
+   * transient events are dropped and an onEventsDropped event with the drop count
+   * is sent ahead of the rest.
+   */
+  public void sendEventToFlutter(String eventId, String eventName, Object eventData) {
+    if (eventId == null || eventName == null) {
+      return;
+    }
+
+    synchronized (eventLock) {
+      getOrCreateBuffer(eventId).add(eventName, eventData);
+      if (!eventSinks.containsKey(eventId) || !flushScheduled.add(eventId)) {
+        return;
+      }
+    }
+
+    getMainExecutor().execute(() -> flush(eventId));
+  }
+
+  /** Returns the total number of events dropped for the given view id. */
+  public long getDroppedEventCount(String eventId) {
+    synchronized (eventLock) {
+      ViewEventBuffer buffer = eventBuffers.get(eventId);
+      return buffer != null ? buffer.getDroppedTotal() : 0;
+    }
+  }
+
+  /** Removes the subscriber and buffered events of the given view id. */
+  public void disposeEventBuffer(String eventId) {
+    synchronized (eventLock) {
+      eventSinks.remove(eventId);
+      flushScheduled.remove(eventId);
+      ViewEventBuffer buffer = eventBuffers.remove(eventId);
+      if (buffer != null) {
+        buffer.clear();
+      }
+    }
+  }
+
+  // Called from a view's event channel when Flutter starts listening
+  void onEventsListen(String eventId, EventChannel.EventSink sink) {
+    List<Map<String, Object>> batch;
+    synchronized (eventLock) {
+      eventSinks.put(eventId, sink);
+      // Deliver events sent before Flutter subscribed
+      batch = takeBatch(getOrCreateBuffer(eventId), true);
+    }
+    deliver(sink, batch);
+  }
+
+  // Called from a view's event channel when Flutter stops listening. Sticky state
+  // is kept so a new subscriber still gets it; the view's dispose removes it.
+  void onEventsCancel(String eventId) {
+    synchronized (eventLock) {
+      eventSinks.remove(eventId);
+      flushScheduled.remove(eventId);
+      ViewEventBuffer buffer = eventBuffers.get(eventId);
+      if (buffer != null) {
+        buffer.clearPending();
+      }
+    }
+  }
+
+  private void clearEventBuffers() {
+    synchronized (eventLock) {
+      eventSinks.clear();
+      flushScheduled.clear();
+      eventBuffers.clear();
+    }
+  }
+
+  private ViewEventBuffer getOrCreateBuffer(String eventId) {
+    ViewEventBuffer buffer = eventBuffers.get(eventId);
+    if (buffer == null) {
+      buffer = new ViewEventBuffer();
+      eventBuffers.put(eventId, buffer);
+    }
+    return buffer;
+  }
+
+  private Executor getMainExecutor() {
+    synchronized (eventLock) {
+      if (mainExecutor == null) {
+        Handler mainHandler = new Handler(Looper.getMainLooper());
+        mainExecutor = mainHandler::post;
+      }
+      return mainExecutor;
+    }
   }
-  
-  public static void sendEventToFlutter(String eventId, String eventName, Object eventData) {
-    // This method can be called from the player view to send events to Flutter
-    // Implementation would need to know which event sink to use
+
+  private void flush(String eventId) {
+    EventChannel.EventSink sink;
+    List<Map<String, Object>> batch;
+    synchronized (eventLock) {
+      flushScheduled.remove(eventId);
+      sink = eventSinks.get(eventId);
+      ViewEventBuffer buffer = eventBuffers.get(eventId);
+      if (sink == null || buffer == null) {
+        return;
+      }
+      batch = takeBatch(buffer, false);
+    }
+    deliver(sink, batch);
+  }
+
+  // Must be called holding eventLock so the drop count matches the drained events
+  private List<Map<String, Object>> takeBatch(ViewEventBuffer buffer, boolean replay) {
+    List<Map<String, Object>> batch = new ArrayList<>();
+    int dropped = buffer.takeDroppedSinceDrain();
+    if (dropped > 0) {
+      batch.add(new ViewEventBuffer.Event("onEventsDropped", dropped).toMap());
+    }
+    for (ViewEventBuffer.Event event : replay ? buffer.replay() : buffer.drain()) {
+      batch.add(event.toMap());
+    }
+    return batch;
+  }
+
+  private static void deliver(EventChannel.EventSink sink, List<Map<String, Object>> batch) {
+    for (Map<String, Object> event : batch) {
+      sink.success(event);
+    }
   }
 }
@@ -1,6 +1,9 @@
 package com.teqani.teqani_youtube_player;
 
 import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.util.Log;
 import android.view.View;
 import android.widget.FrameLayout;
@@ -20,20 +23,25 @@ import com.pierfrancescosoffritti.androidyoutubeplayer.core.player.options.IFram
 import com.pierfrancescosoffritti.androidyoutubeplayer.core.player.views.YouTubePlayerView;
 
 import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.platform.PlatformView;
 
 import java.lang.reflect.Field;
+import java.util.HashMap;
 import java.util.Map;
 
 import kotlin.Unit;
 import kotlin.jvm.functions.Function0;
 
 public class TeqaniYoutubePlayerView implements PlatformView, MethodChannel.MethodCallHandler, LifecycleObserver {
-    private final YouTubePlayerView youTubePlayerView;
+    private YouTubePlayerView youTubePlayerView;
     private final FrameLayout container;
     private final MethodChannel methodChannel;
+    private final EventChannel eventChannel;
+    private final TeqaniYoutubePlayerPlugin plugin;
+    private final String eventId;
     private final int viewId;
     private final Context context;
     
@@ -53,9 +61,20 @@ public class TeqaniYoutubePlayerView implements PlatformView, MethodChannel.Meth
 
     private Function0<Unit> exitFullscreen = null;
 
-    public TeqaniYoutubePlayerView(Context context, int viewId, Map<String, Object> creationParams, BinaryMessenger messenger) {
+    // Readiness watchdog state
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private IFramePlayerOptions playerOptions;
+    private ReadyWatchdog readyWatchdog = ReadyWatchdog.fromCreationParams(null);
+    private long readyAttemptStartTime = 0;
+    private boolean isDisposed = false;
+    private final Runnable readyTimeout = () -> onReadyAttemptFailed(readyWatchdog.getAttempt(), "timeout");
+    private final Runnable retryPlayerInit = this::attemptPlayerInit;
+
+    public TeqaniYoutubePlayerView(Context context, int viewId, Map<String, Object> creationParams, BinaryMessenger messenger, TeqaniYoutubePlayerPlugin plugin) {
         this.viewId = viewId;
         this.context = context;
+        this.plugin = plugin;
+        this.eventId = String.valueOf(viewId);
         
         // Create a container for the player
         container = new FrameLayout(context);
@@ -64,8 +83,29 @@ public class TeqaniYoutubePlayerView implements PlatformView, MethodChannel.Meth
         methodChannel = new MethodChannel(messenger, "com.teqani.youtube_player/player_" + viewId);
         methodChannel.setMethodCallHandler(this);
         
+        // Setup event channel; events are buffered by the plugin until Flutter listens
+        eventChannel = new EventChannel(messenger, "com.teqani.youtube_player/events_" + viewId);
+        eventChannel.setStreamHandler(new EventChannel.StreamHandler() {
+            @Override
+            public void onListen(Object arguments, EventChannel.EventSink events) {
+                plugin.onEventsListen(eventId, events);
+            }
+
+            @Override
+            public void onCancel(Object arguments) {
+                plugin.onEventsCancel(eventId);
+            }
+        });
+        
+        // Initialize player with parameters
+        initializePlayer(creationParams);
+    }
+
+    private void createPlayerView() {
         // Create the YouTube player view
+        long creationStart = SystemClock.elapsedRealtime();
         youTubePlayerView = new YouTubePlayerView(context);
+        WebViewWarmUp.recordPlayerCreation(SystemClock.elapsedRealtime() - creationStart);
         
         // Disable automatic initialization using reflection
         try {
@@ -79,9 +119,75 @@ public class TeqaniYoutubePlayerView implements PlatformView, MethodChannel.Meth
         
         // Add view to container
         container.addView(youTubePlayerView);
-        
-        // Initialize player with parameters
-        initializePlayer(creationParams);
+    }
+
+    private void releasePlayerView() {
+        if (youTubePlayerView != null) {
+            container.removeView(youTubePlayerView);
+            youTubePlayerView.release();
+            youTubePlayerView = null;
+        }
+        youTubePlayer = null;
+        isPlayerInitialized = false;
+        exitFullscreen = null;
+    }
+
+    private void attemptPlayerInit() {
+        if (isDisposed) {
+            return;
+        }
+
+        int attempt = readyWatchdog.startAttempt();
+        readyAttemptStartTime = SystemClock.elapsedRealtime();
+        Log.d("YouTubePlayer", "Player init attempt " + attempt);
+
+        // Creation, listener setup and initialize() failures all fail the attempt now
+        try {
+            createPlayerView();
+            setUpPlayerView(attempt);
+        } catch (Exception e) {
+            Log.e("YouTubePlayer", "Error setting up YouTube player: " + e.getMessage(), e);
+            onReadyAttemptFailed(attempt, "error: " + e.getMessage());
+            return;
+        }
+
+        // Watchdog: recreate the player if it does not become ready in time
+        mainHandler.postDelayed(readyTimeout, readyWatchdog.getTimeoutMs());
+    }
+
+    // Callbacks from a disposed view or a torn-down attempt must not overwrite current state
+    private boolean isStaleAttempt(int attempt) {
+        return isDisposed || !readyWatchdog.isCurrent(attempt);
+    }
+
+    private void onReadyAttemptFailed(int attempt, String reason) {
+        if (isDisposed || !readyWatchdog.isCurrent(attempt) || isPlayerInitialized) {
+            return;
+        }
+
+        mainHandler.removeCallbacks(readyTimeout);
+        reportReadyAttempt(attempt, false, reason);
+        releasePlayerView();
+
+        if (!readyWatchdog.shouldRetry(attempt)) {
+            Log.e("YouTubePlayer", "Player not ready after " + attempt + " attempts, giving up");
+            sendEvent("onError", "Player failed to become ready after " + attempt + " attempts");
+            return;
+        }
+
+        // Exponential backoff between attempts; pending parameters are kept
+        long delay = ReadyWatchdog.retryDelayMs(attempt);
+        Log.w("YouTubePlayer", "Player init attempt " + attempt + " failed (" + reason + "), retrying in " + delay + "ms");
+        mainHandler.postDelayed(retryPlayerInit, delay);
+    }
+
+    private void reportReadyAttempt(int attempt, boolean ready, String reason) {
+        Map<String, Object> metric = new HashMap<>();
+        metric.put("attempt", attempt);
+        metric.put("ready", ready);
+        metric.put("latencyMs", SystemClock.elapsedRealtime() - readyAttemptStartTime);
+        metric.put("reason", reason);
+        sendEvent("onReadyAttempt", metric);
     }
     
     private void initializePlayer(Map<String, Object> creationParams) {
@@ -108,6 +214,19 @@ public class TeqaniYoutubePlayerView implements PlatformView, MethodChannel.Meth
             Log.e("YouTubePlayer", "Video ID is missing in creationParams");
         }
 
+        // Save pending settings for autoplay
+        if (creationParams != null && creationParams.containsKey("autoPlay")) {
+            pendingAutoPlay = (Boolean) creationParams.get("autoPlay");
+        } else if (creationParams != null && creationParams.containsKey("initialConfig")) {
+            Map<String, Object> config = (Map<String, Object>) creationParams.get("initialConfig");
+            if (config != null && config.containsKey("autoPlay")) {
+                pendingAutoPlay = (Boolean) config.get("autoPlay");
+            }
+        }
+
+        // Readiness watchdog settings
+        readyWatchdog = ReadyWatchdog.fromCreationParams(creationParams);
+
         // Build IFramePlayerOptions
         IFramePlayerOptions.Builder optionsBuilder = new IFramePlayerOptions.Builder();
         optionsBuilder.controls(1); // Show controls
@@ -117,95 +236,102 @@ public class TeqaniYoutubePlayerView implements PlatformView, MethodChannel.Meth
         optionsBuilder.rel(0); // Don't show related videos
 
         // Build options
-        IFramePlayerOptions options = optionsBuilder.build();
+        playerOptions = optionsBuilder.build();
+
+        attemptPlayerInit();
+    }
 
+    private void setUpPlayerView(final int attempt) {
         // Add listener for player readiness and other events
-        try {
-            // Add listeners
-            youTubePlayerView.addYouTubePlayerListener(new AbstractYouTubePlayerListener() {
-                @Override
-                public void onReady(@NonNull YouTubePlayer player) {
-                    Log.d("YouTubePlayer", "Player is ready");
-                    youTubePlayer = player;
-                    isPlayerInitialized = true;
-                    
-                    // Load video if we have a pending ID
-                    if (pendingVideoId != null) {
-                        loadPendingVideoSettings();
-                    }
-                    
-                    // Notify Flutter side that player is ready
-                    methodChannel.invokeMethod("onReady", null);
+        youTubePlayerView.addYouTubePlayerListener(new AbstractYouTubePlayerListener() {
+            @Override
+            public void onReady(@NonNull YouTubePlayer player) {
+                if (isStaleAttempt(attempt)) {
+                    // Ready callback from a player view that was already torn down
+                    return;
                 }
+                mainHandler.removeCallbacks(readyTimeout);
+                Log.d("YouTubePlayer", "Player is ready");
+                reportReadyAttempt(attempt, true, null);
+                youTubePlayer = player;
+                isPlayerInitialized = true;
                 
-                @Override
-                public void onError(@NonNull YouTubePlayer player, @NonNull PlayerConstants.PlayerError error) {
-                    Log.e("YouTubePlayer", "Player error: " + error.toString());
-                    methodChannel.invokeMethod("onError", error.toString());
+                // Load video if we have a pending ID
+                if (pendingVideoId != null) {
+                    loadPendingVideoSettings();
                 }
                 
-                @Override
-                public void onStateChange(@NonNull YouTubePlayer player, @NonNull PlayerConstants.PlayerState state) {
-                    methodChannel.invokeMethod("onStateChanged", state.toString());
+                // Notify Flutter side that player is ready
+                sendEvent("onReady", null);
+            }
+            
+            @Override
+            public void onError(@NonNull YouTubePlayer player, @NonNull PlayerConstants.PlayerError error) {
+                if (isStaleAttempt(attempt)) {
+                    return;
                 }
-                
-                @Override
-                public void onCurrentSecond(@NonNull YouTubePlayer player, float second) {
-                    // Only send updates occasionally to avoid flooding the channel
-                    if (Math.floor(second) % 5 == 0) {
-                        methodChannel.invokeMethod("onCurrentSecond", second);
-                    }
+                Log.e("YouTubePlayer", "Player error: " + error.toString());
+                sendEvent("onError", error.toString());
+            }
+            
+            @Override
+            public void onStateChange(@NonNull YouTubePlayer player, @NonNull PlayerConstants.PlayerState state) {
+                if (isStaleAttempt(attempt)) {
+                    return;
                 }
-                
-                @Override
-                public void onVideoDuration(@NonNull YouTubePlayer player, float duration) {
-                    methodChannel.invokeMethod("onVideoDuration", duration);
+                sendEvent("onStateChanged", state.toString());
+            }
+            
+            @Override
+            public void onCurrentSecond(@NonNull YouTubePlayer player, float second) {
+                if (isStaleAttempt(attempt)) {
+                    return;
                 }
-            });
-
-            // Add FullscreenListener
-            youTubePlayerView.addFullscreenListener(new FullscreenListener() {
-                @Override
-                public void onEnterFullscreen(@NonNull View fullscreenView, @NonNull Function0<Unit> exitFullscreenAction) {
-                    Log.d("YouTubePlayer", "Entering fullscreen");
-                    TeqaniYoutubePlayerView.this.exitFullscreen = exitFullscreenAction;
-                    methodChannel.invokeMethod("onEnterFullscreen", null);
+                // Only send updates occasionally to avoid flooding the channel
+                if (Math.floor(second) % 5 == 0) {
+                    sendEvent("onCurrentSecond", second);
                 }
+            }
+            
+            @Override
+            public void onVideoDuration(@NonNull YouTubePlayer player, float duration) {
+                if (isStaleAttempt(attempt)) {
+                    return;
+                }
+                sendEvent("onVideoDuration", duration);
+            }
+        });
 
-                @Override
-                public void onExitFullscreen() {
-                    Log.d("YouTubePlayer", "Exiting fullscreen");
-                    TeqaniYoutubePlayerView.this.exitFullscreen = null;
-                    methodChannel.invokeMethod("onExitFullscreen", null);
+        // Add FullscreenListener
+        youTubePlayerView.addFullscreenListener(new FullscreenListener() {
+            @Override
+            public void onEnterFullscreen(@NonNull View fullscreenView, @NonNull Function0<Unit> exitFullscreenAction) {
+                if (isStaleAttempt(attempt)) {
+                    return;
                 }
-            });
+                Log.d("YouTubePlayer", "Entering fullscreen");
+                TeqaniYoutubePlayerView.this.exitFullscreen = exitFullscreenAction;
+                sendEvent("onEnterFullscreen", null);
+            }
 
-            // Initialize the player
-            try {
-                youTubePlayerView.initialize(new AbstractYouTubePlayerListener() {
-                    @Override
-                    public void onReady(@NonNull YouTubePlayer player) {
-                        // This should not be called as we've already set up our listeners
-                    }
-                }, options);
-                
-                // Save pending settings for autoplay
-                if (creationParams != null && creationParams.containsKey("autoPlay")) {
-                    pendingAutoPlay = (Boolean) creationParams.get("autoPlay");
-                } else if (creationParams != null && creationParams.containsKey("initialConfig")) {
-                    Map<String, Object> config = (Map<String, Object>) creationParams.get("initialConfig");
-                    if (config != null && config.containsKey("autoPlay")) {
-                        pendingAutoPlay = (Boolean) config.get("autoPlay");
-                    }
+            @Override
+            public void onExitFullscreen() {
+                if (isStaleAttempt(attempt)) {
+                    return;
                 }
-            } catch (Exception e) {
-                Log.e("YouTubePlayer", "Error initializing player: " + e.getMessage(), e);
-                methodChannel.invokeMethod("onError", "Initialization error: " + e.getMessage());
+                Log.d("YouTubePlayer", "Exiting fullscreen");
+                TeqaniYoutubePlayerView.this.exitFullscreen = null;
+                sendEvent("onExitFullscreen", null);
             }
-        } catch (Exception e) {
-            Log.e("YouTubePlayer", "Error setting up YouTube player: " + e.getMessage(), e);
-            methodChannel.invokeMethod("onError", "Setup error: " + e.getMessage());
-        }
+        });
+
+        // Initialize the player; exceptions fail the attempt in attemptPlayerInit
+        youTubePlayerView.initialize(new AbstractYouTubePlayerListener() {
+            @Override
+            public void onReady(@NonNull YouTubePlayer player) {
+                // This should not be called as we've already set up our listeners
+            }
+        }, playerOptions);
     }
 
     private void loadPendingVideoSettings() {
@@ -236,7 +362,7 @@ public class TeqaniYoutubePlayerView implements PlatformView, MethodChannel.Meth
                 }
             } catch (Exception e) {
                 Log.e("YouTubePlayer", "Error loading video: " + e.getMessage());
-                methodChannel.invokeMethod("onError", "Error loading video: " + e.getMessage());
+                sendEvent("onError", "Error loading video: " + e.getMessage());
             }
             
             // Clear pending state
@@ -264,6 +390,16 @@ public class TeqaniYoutubePlayerView implements PlatformView, MethodChannel.Meth
         }
     }
 
+    // Notify Flutter over the view's method channel and the per-view event stream
+    private void sendEvent(String eventName, Object data) {
+        if (isDisposed) {
+            // Late player callbacks must not recreate the buffer of a disposed view
+            return;
+        }
+        methodChannel.invokeMethod(eventName, data);
+        plugin.sendEventToFlutter(eventId, eventName, data);
+    }
+
     @Override
     public View getView() {
         return container;
@@ -307,13 +443,13 @@ public class TeqaniYoutubePlayerView implements PlatformView, MethodChannel.Meth
                 break;
             case "enterFullscreen":
                 if (youTubePlayerView != null) {
-                    methodChannel.invokeMethod("onFullscreenChange", true);
+                    sendEvent("onFullscreenChange", true);
                 }
                 result.success(null);
                 break;
             case "exitFullscreen":
                 if (youTubePlayerView != null) {
-                    methodChannel.invokeMethod("onFullscreenChange", false);
+                    sendEvent("onFullscreenChange", false);
                 }
                 result.success(null);
                 break;
@@ -484,18 +620,28 @@ public class TeqaniYoutubePlayerView implements PlatformView, MethodChannel.Meth
     
     @Override
     public void dispose() {
+        isDisposed = true;
+        mainHandler.removeCallbacks(readyTimeout);
+        mainHandler.removeCallbacks(retryPlayerInit);
         if (youTubePlayerView != null) {
             youTubePlayerView.release();
         }
         methodChannel.setMethodCallHandler(null);
+        eventChannel.setStreamHandler(null);
+        plugin.disposeEventBuffer(eventId);
     }
     
     @OnLifecycleEvent(Lifecycle.Event.ON_DESTROY)
     public void onDestroy() {
         Log.d("YouTubePlayer", "Releasing YouTubePlayerView");
+        isDisposed = true;
+        mainHandler.removeCallbacks(readyTimeout);
+        mainHandler.removeCallbacks(retryPlayerInit);
         if (youTubePlayerView != null) {
             youTubePlayerView.release();
         }
         methodChannel.setMethodCallHandler(null);
+        eventChannel.setStreamHandler(null);
+        plugin.disposeEventBuffer(eventId);
     }
 }
@@ -14,10 +14,12 @@ import java.util.Map;
 
 public class TeqaniYoutubePlayerViewFactory extends PlatformViewFactory {
     private final BinaryMessenger messenger;
+    private final TeqaniYoutubePlayerPlugin plugin;
 
-    public TeqaniYoutubePlayerViewFactory(BinaryMessenger messenger) {
+    public TeqaniYoutubePlayerViewFactory(BinaryMessenger messenger, TeqaniYoutubePlayerPlugin plugin) {
         super(StandardMessageCodec.INSTANCE);
         this.messenger = messenger;
+        this.plugin = plugin;
     }
 
     @NonNull
@@ -27,6 +29,6 @@ public class TeqaniYoutubePlayerViewFactory extends PlatformViewFactory {
         Map<String, Object> creationParams = args != null ? (Map<String, Object>) args : new HashMap<>();
         
         // Create the TeqaniYoutubePlayerView with the creation params
-        return new TeqaniYoutubePlayerView(context, viewId, creationParams, messenger);
+        return new TeqaniYoutubePlayerView(context, viewId, creationParams, messenger, plugin);
     }
 }
@@ -0,0 +1,154 @@
+package com.teqani.teqani_youtube_player;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bounded per-view event buffer used by {@link TeqaniYoutubePlayerPlugin}.
+ *
+ * Keeps the latest value of each sticky event type (player state) so a late
+ * subscriber can be brought up to date, plus a capped queue of transient events
+ * that have not been delivered yet. Only transient events are dropped: when the
+ * queue is full the oldest one is dropped and counted.
+ */
+class ViewEventBuffer {
+    static final int DEFAULT_CAPACITY = 64;
+
+    // Events describing the current player state; only the latest value matters
+    static final Set<String> STICKY_EVENTS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        "onReady",
+        "onVideoDuration",
+        "onStateChanged",
+        "onEnterFullscreen",
+        "onExitFullscreen"
+    )));
+
+    static final class Event {
+        final String name;
+        final Object data;
+
+        Event(String name, Object data) {
+            this.name = name;
+            this.data = data;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new HashMap<>();
+            map.put("event", name);
+            map.put("data", data);
+            return map;
+        }
+    }
+
+    private final int capacity;
+    private final Map<String, Event> sticky = new LinkedHashMap<>();
+    // Sticky event types updated since the last drain
+    private final Set<String> stickyChanged = new LinkedHashSet<>();
+    private final ArrayDeque<Event> pending = new ArrayDeque<>();
+    private long droppedTotal = 0;
+    private int droppedSinceDrain = 0;
+
+    ViewEventBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    ViewEventBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.capacity = capacity;
+    }
+
+    static boolean isSticky(String eventName) {
+        return STICKY_EVENTS.contains(eventName);
+    }
+
+    synchronized void add(String eventName, Object data) {
+        Event event = new Event(eventName, data);
+        if (isSticky(eventName)) {
+            // Fullscreen enter/exit describe one piece of state
+            if ("onEnterFullscreen".equals(eventName)) {
+                sticky.remove("onExitFullscreen");
+                stickyChanged.remove("onExitFullscreen");
+            } else if ("onExitFullscreen".equals(eventName)) {
+                sticky.remove("onEnterFullscreen");
+                stickyChanged.remove("onEnterFullscreen");
+            }
+            // Re-insert so the sticky map keeps the order of the latest updates
+            sticky.remove(eventName);
+            sticky.put(eventName, event);
+            stickyChanged.remove(eventName);
+            stickyChanged.add(eventName);
+            return;
+        }
+
+        // Drop-oldest when the consumer is not keeping up
+        if (pending.size() >= capacity) {
+            pending.pollFirst();
+            droppedTotal++;
+            droppedSinceDrain++;
+        }
+        pending.addLast(event);
+    }
+
+    /**
+     * Returns and clears the undelivered events: the latest value of each sticky
+     * type updated since the last drain, followed by the transient events in order.
+     */
+    synchronized List<Event> drain() {
+        List<Event> events = new ArrayList<>();
+        for (String name : stickyChanged) {
+            events.add(sticky.get(name));
+        }
+        stickyChanged.clear();
+        events.addAll(pending);
+        pending.clear();
+        return events;
+    }
+
+    /**
+     * Returns the events a new subscriber should receive: the latest value of every
+     * sticky type, followed by the undelivered transient events. Clears both queues.
+     */
+    synchronized List<Event> replay() {
+        List<Event> events = new ArrayList<>(sticky.values());
+        stickyChanged.clear();
+        events.addAll(pending);
+        pending.clear();
+        return events;
+    }
+
+    /** Returns the number of events dropped since the last call, then resets it. */
+    synchronized int takeDroppedSinceDrain() {
+        int dropped = droppedSinceDrain;
+        droppedSinceDrain = 0;
+        return dropped;
+    }
+
+    synchronized long getDroppedTotal() {
+        return droppedTotal;
+    }
+
+    /** Drops the undelivered transient events but keeps the sticky state. */
+    synchronized void clearPending() {
+        stickyChanged.clear();
+        pending.clear();
+        droppedSinceDrain = 0;
+    }
+
+    synchronized void clear() {
+        sticky.clear();
+        stickyChanged.clear();
+        pending.clear();
+        droppedSinceDrain = 0;
+    }
+}
@@ -0,0 +1,206 @@
+package com.teqani.teqani_youtube_player;
+
+import android.app.Application;
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.content.pm.PackageManager;
+import android.os.Build;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+import android.webkit.WebView;
+import android.webkit.WebViewClient;
+
+import java.io.FileInputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Process-wide WebView warm-up started from {@link TeqaniYoutubePlayerPlugin}.
+ *
+ * The first WebView in a process pays for loading the Chromium provider, which
+ * otherwise happens inside the first {@code new YouTubePlayerView(context)}. When
+ * the main thread goes idle after engine attach, a throwaway WebView is created
+ * and used to fetch the IFrame API bootstrap into the shared WebView cache.
+ *
+ * Opt-in: enable it with the application meta-data
+ * {@code com.teqani.youtube_player.warmUpWebView} set to {@code true}. It only runs
+ * in the app's main process, since an extra WebView in another process needs its
+ * own data directory suffix.
+ */
+final class WebViewWarmUp {
+    static final String META_DATA_ENABLED = "com.teqani.youtube_player.warmUpWebView";
+
+    private static final String BOOTSTRAP_BASE_URL = "https://www.youtube.com";
+    private static final String BOOTSTRAP_HTML =
+        "<html><head><script src=\"https://www.youtube.com/iframe_api\"></script></head><body></body></html>";
+    private static final long BOOTSTRAP_TIMEOUT_MS = 10000;
+
+    private static boolean started = false;
+    private static boolean enabled = false;
+    private static boolean providerLoaded = false;
+    private static boolean complete = false;
+    private static boolean failed = false;
+    private static boolean skippedAfterPlayer = false;
+    private static long providerLoadMs = -1;
+    private static long bootstrapMs = -1;
+    private static long firstPlayerCreationMs = -1;
+    private static Boolean firstPlayerWarm = null;
+
+    private WebViewWarmUp() {}
+
+    private static boolean isEnabled(Context context) {
+        try {
+            ApplicationInfo info = context.getPackageManager()
+                .getApplicationInfo(context.getPackageName(), PackageManager.GET_META_DATA);
+            Bundle metaData = info.metaData;
+            return metaData != null && metaData.getBoolean(META_DATA_ENABLED, false);
+        } catch (Exception e) {
+            Log.w("YouTubePlayer", "Could not read warm-up setting: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean isMainProcess(Context context) {
+        String processName = null;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.P) {
+            processName = Application.getProcessName();
+        } else {
+            try (FileInputStream input = new FileInputStream("/proc/self/cmdline")) {
+                byte[] buffer = new byte[256];
+                int length = input.read(buffer);
+                int end = 0;
+                while (end < length && buffer[end] != 0) {
+                    end++;
+                }
+                processName = new String(buffer, 0, end, "UTF-8");
+            } catch (Exception e) {
+                Log.w("YouTubePlayer", "Could not read process name: " + e.getMessage());
+            }
+        }
+        // Skip when unsure; a WebView in a secondary process can crash on API 28+
+        return context.getPackageName().equals(processName);
+    }
+
+    /**
+     * Schedules the warm-up for the next main thread idle; does not block the caller.
+     * The opt-in setting and process checks also run on idle.
+     */
+    static void start(Context context) {
+        final Context appContext = context.getApplicationContext();
+        synchronized (WebViewWarmUp.class) {
+            if (started) {
+                return;
+            }
+            started = true;
+        }
+
+        final Handler handler = new Handler(Looper.getMainLooper());
+        handler.post(() -> Looper.myQueue().addIdleHandler(() -> {
+            if (!isEnabled(appContext)) {
+                return false;
+            }
+            if (!isMainProcess(appContext)) {
+                Log.d("YouTubePlayer", "Skipping WebView warm-up outside the main process");
+                return false;
+            }
+            boolean playerCreated;
+            synchronized (WebViewWarmUp.class) {
+                enabled = true;
+                // A player already loaded the provider; warming up now only costs work
+                playerCreated = firstPlayerCreationMs >= 0;
+                skippedAfterPlayer = playerCreated;
+            }
+            if (playerCreated) {
+                Log.d("YouTubePlayer", "Skipping WebView warm-up, a player was already created");
+                return false;
+            }
+            warmUp(appContext, handler);
+            return false;
+        }));
+    }
+
+    private static void warmUp(Context context, Handler handler) {
+        final long startTime = SystemClock.elapsedRealtime();
+        final WebView webView;
+        try {
+            // Loads the WebView provider; this is the cost the first player would pay
+            webView = new WebView(context);
+        } catch (Exception e) {
+            Log.e("YouTubePlayer", "WebView warm-up failed: " + e.getMessage(), e);
+            synchronized (WebViewWarmUp.class) {
+                failed = true;
+            }
+            return;
+        }
+
+        synchronized (WebViewWarmUp.class) {
+            providerLoaded = true;
+            providerLoadMs = SystemClock.elapsedRealtime() - startTime;
+        }
+        Log.d("YouTubePlayer", "WebView provider loaded in " + providerLoadMs + "ms");
+
+        final Runnable finish = () -> finish(webView, startTime);
+        webView.getSettings().setJavaScriptEnabled(true);
+        webView.setWebViewClient(new WebViewClient() {
+            @Override
+            public void onPageFinished(WebView view, String url) {
+                handler.removeCallbacks(finish);
+                finish(webView, startTime);
+            }
+        });
+        webView.loadDataWithBaseURL(BOOTSTRAP_BASE_URL, BOOTSTRAP_HTML, "text/html", "utf-8", null);
+
+        // Don't hold the WebView if the bootstrap fetch stalls
+        handler.postDelayed(finish, BOOTSTRAP_TIMEOUT_MS);
+    }
+
+    private static void finish(WebView webView, long startTime) {
+        synchronized (WebViewWarmUp.class) {
+            if (complete) {
+                return;
+            }
+            complete = true;
+            bootstrapMs = SystemClock.elapsedRealtime() - startTime;
+        }
+        Log.d("YouTubePlayer", "WebView warm-up finished in " + bootstrapMs + "ms");
+        webView.stopLoading();
+        webView.destroy();
+    }
+
+    /** Whether the warm-up loaded the WebView provider and finished; false if it failed or never ran. */
+    static synchronized boolean isComplete() {
+        return complete;
+    }
+
+    /** Records how long the first player view took to create, and whether it was warm. */
+    static void recordPlayerCreation(long durationMs) {
+        boolean warm;
+        synchronized (WebViewWarmUp.class) {
+            if (firstPlayerCreationMs >= 0) {
+                return;
+            }
+            firstPlayerCreationMs = durationMs;
+            firstPlayerWarm = providerLoaded;
+            warm = providerLoaded;
+        }
+        Log.d("YouTubePlayer", "First player view created in " + durationMs + "ms (" + (warm ? "warm" : "cold") + ")");
+    }
+
+    static synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("started", started);
+        stats.put("enabled", enabled);
+        stats.put("providerLoaded", providerLoaded);
+        stats.put("complete", complete);
+        stats.put("failed", failed);
+        stats.put("skippedAfterPlayer", skippedAfterPlayer);
+        stats.put("providerLoadMs", providerLoadMs);
+        stats.put("bootstrapMs", bootstrapMs);
+        stats.put("firstPlayerCreationMs", firstPlayerCreationMs);
+        stats.put("firstPlayerWarm", firstPlayerWarm);
+        return stats;
+    }
+}
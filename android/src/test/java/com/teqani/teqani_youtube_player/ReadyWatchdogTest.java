@@ -0,0 +1,72 @@
+package com.teqani.teqani_youtube_player;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class ReadyWatchdogTest {
+  @Test
+  public void retryDelayMs_doublesUpToCap() {
+    assertEquals(500, ReadyWatchdog.retryDelayMs(1));
+    assertEquals(1000, ReadyWatchdog.retryDelayMs(2));
+    assertEquals(4000, ReadyWatchdog.retryDelayMs(4));
+    assertEquals(8000, ReadyWatchdog.retryDelayMs(5));
+    assertEquals(8000, ReadyWatchdog.retryDelayMs(6));
+  }
+
+  @Test
+  public void retryDelayMs_doesNotOverflowForLargeAttempts() {
+    assertEquals(8000, ReadyWatchdog.retryDelayMs(56));
+    assertEquals(8000, ReadyWatchdog.retryDelayMs(65));
+    assertEquals(8000, ReadyWatchdog.retryDelayMs(Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void shouldRetry_givesUpAfterMaxRetries() {
+    ReadyWatchdog watchdog = new ReadyWatchdog(1000, 2);
+
+    assertTrue(watchdog.shouldRetry(watchdog.startAttempt()));
+    assertTrue(watchdog.shouldRetry(watchdog.startAttempt()));
+    assertFalse(watchdog.shouldRetry(watchdog.startAttempt()));
+  }
+
+  @Test
+  public void isCurrent_rejectsEarlierAttempts() {
+    ReadyWatchdog watchdog = new ReadyWatchdog(1000, 3);
+    int first = watchdog.startAttempt();
+    int second = watchdog.startAttempt();
+
+    assertFalse(watchdog.isCurrent(first));
+    assertTrue(watchdog.isCurrent(second));
+  }
+
+  @Test
+  public void fromCreationParams_readsAndClampsSettings() {
+    Map<String, Object> params = new HashMap<>();
+    params.put("readyTimeoutMs", 2000);
+    params.put("readyMaxRetries", 1000);
+
+    ReadyWatchdog watchdog = ReadyWatchdog.fromCreationParams(params);
+
+    assertEquals(2000, watchdog.getTimeoutMs());
+    assertEquals(ReadyWatchdog.MAX_RETRIES_LIMIT, watchdog.getMaxRetries());
+
+    params.put("readyTimeoutMs", 0);
+    assertEquals(ReadyWatchdog.DEFAULT_TIMEOUT_MS, ReadyWatchdog.fromCreationParams(params).getTimeoutMs());
+
+    params.put("readyTimeoutMs", -5);
+    assertEquals(ReadyWatchdog.DEFAULT_TIMEOUT_MS, ReadyWatchdog.fromCreationParams(params).getTimeoutMs());
+  }
+
+  @Test
+  public void fromCreationParams_usesDefaultsWhenMissing() {
+    ReadyWatchdog watchdog = ReadyWatchdog.fromCreationParams(null);
+
+    assertEquals(ReadyWatchdog.DEFAULT_TIMEOUT_MS, watchdog.getTimeoutMs());
+    assertEquals(ReadyWatchdog.DEFAULT_MAX_RETRIES, watchdog.getMaxRetries());
+  }
+}
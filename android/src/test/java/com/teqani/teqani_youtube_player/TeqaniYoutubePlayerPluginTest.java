@@ -1,11 +1,21 @@
 package com.teqani.teqani_youtube_player;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
+import java.util.HashMap;
+import java.util.Map;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 
 /**
  * This demonstrates a simple unit test of the Java portion of this plugin's implementation.
@@ -26,4 +36,118 @@ public class TeqaniYoutubePlayerPluginTest {
 
     verify(mockResult).success("Android " + android.os.Build.VERSION.RELEASE);
   }
+
+  @Test
+  public void onMethodCall_isWarmUpComplete_returnsFalseWithoutWarmUp() {
+    TeqaniYoutubePlayerPlugin plugin = new TeqaniYoutubePlayerPlugin();
+
+    final MethodCall call = new MethodCall("isWarmUpComplete", null);
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+    plugin.onMethodCall(call, mockResult);
+
+    verify(mockResult).success(false);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void onMethodCall_getWarmUpStats_reportsWarmUpState() {
+    TeqaniYoutubePlayerPlugin plugin = new TeqaniYoutubePlayerPlugin();
+
+    final MethodCall call = new MethodCall("getWarmUpStats", null);
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+    plugin.onMethodCall(call, mockResult);
+
+    ArgumentCaptor<Object> stats = ArgumentCaptor.forClass(Object.class);
+    verify(mockResult).success(stats.capture());
+    Map<String, Object> map = (Map<String, Object>) stats.getValue();
+    assertEquals(false, map.get("complete"));
+    assertEquals(false, map.get("failed"));
+    assertEquals(false, map.get("providerLoaded"));
+    assertEquals(false, map.get("skippedAfterPlayer"));
+    assertTrue(map.containsKey("firstPlayerCreationMs"));
+  }
+
+  @Test
+  public void onEventsListen_replaysEventsSentBeforeListen() {
+    TeqaniYoutubePlayerPlugin plugin = new TeqaniYoutubePlayerPlugin(Runnable::run);
+    EventChannel.EventSink sink = mock(EventChannel.EventSink.class);
+
+    plugin.sendEventToFlutter("0", "onReady", null);
+    plugin.sendEventToFlutter("0", "onVideoDuration", 120f);
+    plugin.onEventsListen("0", sink);
+
+    InOrder order = inOrder(sink);
+    order.verify(sink).success(event("onReady", null));
+    order.verify(sink).success(event("onVideoDuration", 120f));
+  }
+
+  @Test
+  public void onEventsListen_sendsDropCountBeforeBatch() {
+    TeqaniYoutubePlayerPlugin plugin = new TeqaniYoutubePlayerPlugin(Runnable::run);
+    EventChannel.EventSink sink = mock(EventChannel.EventSink.class);
+
+    for (int i = 0; i < ViewEventBuffer.DEFAULT_CAPACITY + 2; i++) {
+      plugin.sendEventToFlutter("0", "onCurrentSecond", (float) i);
+    }
+    plugin.onEventsListen("0", sink);
+
+    InOrder order = inOrder(sink);
+    order.verify(sink).success(event("onEventsDropped", 2));
+    order.verify(sink).success(event("onCurrentSecond", 2f));
+    verify(sink, never()).success(event("onCurrentSecond", 0f));
+  }
+
+  @Test
+  public void sendEventToFlutter_deliversToListeningView() {
+    TeqaniYoutubePlayerPlugin plugin = new TeqaniYoutubePlayerPlugin(Runnable::run);
+    EventChannel.EventSink sink = mock(EventChannel.EventSink.class);
+
+    plugin.onEventsListen("0", sink);
+    plugin.sendEventToFlutter("0", "onError", "HTML_5_PLAYER");
+
+    verify(sink).success(event("onError", "HTML_5_PLAYER"));
+  }
+
+  @Test
+  public void onEventsCancel_removesSinkAndKeepsStickyState() {
+    TeqaniYoutubePlayerPlugin plugin = new TeqaniYoutubePlayerPlugin(Runnable::run);
+    EventChannel.EventSink sink = mock(EventChannel.EventSink.class);
+    EventChannel.EventSink nextSink = mock(EventChannel.EventSink.class);
+
+    plugin.sendEventToFlutter("0", "onReady", null);
+    plugin.onEventsListen("0", sink);
+    plugin.onEventsCancel("0");
+    plugin.sendEventToFlutter("0", "onError", "HTML_5_PLAYER");
+    verify(sink, never()).success(event("onError", "HTML_5_PLAYER"));
+
+    plugin.onEventsListen("0", nextSink);
+    InOrder order = inOrder(nextSink);
+    order.verify(nextSink).success(event("onReady", null));
+    order.verify(nextSink).success(event("onError", "HTML_5_PLAYER"));
+  }
+
+  @Test
+  public void onMethodCall_dispose_onlyClearsGivenView() {
+    TeqaniYoutubePlayerPlugin plugin = new TeqaniYoutubePlayerPlugin(Runnable::run);
+    EventChannel.EventSink firstSink = mock(EventChannel.EventSink.class);
+    EventChannel.EventSink secondSink = mock(EventChannel.EventSink.class);
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+
+    plugin.onEventsListen("0", firstSink);
+    plugin.onEventsListen("1", secondSink);
+    plugin.onMethodCall(new MethodCall("dispose", "0"), mockResult);
+    plugin.onMethodCall(new MethodCall("dispose", null), mockResult);
+    plugin.sendEventToFlutter("0", "onError", "HTML_5_PLAYER");
+    plugin.sendEventToFlutter("1", "onError", "HTML_5_PLAYER");
+
+    verify(firstSink, never()).success(any());
+    verify(secondSink).success(event("onError", "HTML_5_PLAYER"));
+  }
+
+  private static Map<String, Object> event(String name, Object data) {
+    Map<String, Object> event = new HashMap<>();
+    event.put("event", name);
+    event.put("data", data);
+    return event;
+  }
 }
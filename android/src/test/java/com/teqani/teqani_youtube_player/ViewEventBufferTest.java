@@ -0,0 +1,105 @@
+package com.teqani.teqani_youtube_player;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.junit.Test;
+
+public class ViewEventBufferTest {
+  @Test
+  public void replay_includesStickyStateAfterDrain() {
+    ViewEventBuffer buffer = new ViewEventBuffer(8);
+    buffer.add("onReady", null);
+    buffer.add("onVideoDuration", 120f);
+    buffer.drain();
+
+    List<ViewEventBuffer.Event> events = buffer.replay();
+
+    assertEquals(2, events.size());
+    assertEquals("onReady", events.get(0).name);
+    assertEquals("onVideoDuration", events.get(1).name);
+  }
+
+  @Test
+  public void replay_keepsLatestStickyValueOnly() {
+    ViewEventBuffer buffer = new ViewEventBuffer(8);
+    buffer.add("onStateChanged", "BUFFERING");
+    buffer.add("onStateChanged", "PLAYING");
+    buffer.add("onCurrentSecond", 5f);
+    buffer.drain();
+
+    List<ViewEventBuffer.Event> events = buffer.replay();
+
+    assertEquals(1, events.size());
+    assertEquals("PLAYING", events.get(0).data);
+  }
+
+  @Test
+  public void add_dropsOldestWhenFull() {
+    ViewEventBuffer buffer = new ViewEventBuffer(2);
+    buffer.add("onCurrentSecond", 0f);
+    buffer.add("onCurrentSecond", 5f);
+    buffer.add("onCurrentSecond", 10f);
+
+    List<ViewEventBuffer.Event> events = buffer.drain();
+
+    assertEquals(2, events.size());
+    assertEquals(5f, events.get(0).data);
+    assertEquals(1, buffer.takeDroppedSinceDrain());
+    assertEquals(0, buffer.takeDroppedSinceDrain());
+    assertEquals(1, buffer.getDroppedTotal());
+  }
+
+  @Test
+  public void add_keepsTransientEventsThroughStateBurst() {
+    ViewEventBuffer buffer = new ViewEventBuffer(64);
+    buffer.add("onError", "HTML_5_PLAYER");
+    for (int i = 0; i < 100; i++) {
+      buffer.add("onStateChanged", "STATE_" + i);
+    }
+
+    List<ViewEventBuffer.Event> events = buffer.replay();
+
+    assertEquals(0, buffer.getDroppedTotal());
+    assertEquals(2, events.size());
+    assertEquals("STATE_99", events.get(0).data);
+    assertEquals("onError", events.get(1).name);
+  }
+
+  @Test
+  public void drain_returnsOnlyStickyStateChangedSinceLastDrain() {
+    ViewEventBuffer buffer = new ViewEventBuffer(8);
+    buffer.add("onReady", null);
+    buffer.drain();
+    buffer.add("onStateChanged", "PLAYING");
+
+    List<ViewEventBuffer.Event> events = buffer.drain();
+
+    assertEquals(1, events.size());
+    assertEquals("onStateChanged", events.get(0).name);
+  }
+
+  @Test
+  public void clearPending_keepsStickyState() {
+    ViewEventBuffer buffer = new ViewEventBuffer(4);
+    buffer.add("onReady", null);
+    buffer.add("onError", "HTML_5_PLAYER");
+    buffer.clearPending();
+
+    List<ViewEventBuffer.Event> events = buffer.replay();
+
+    assertEquals(1, events.size());
+    assertEquals("onReady", events.get(0).name);
+  }
+
+  @Test
+  public void clear_removesAllEvents() {
+    ViewEventBuffer buffer = new ViewEventBuffer(4);
+    buffer.add("onReady", null);
+    buffer.add("onError", "HTML_5_PLAYER");
+    buffer.clear();
+
+    assertTrue(buffer.replay().isEmpty());
+  }
+}
@@ -99,6 +99,27 @@ class MethodChannelTeqaniYoutubePlayer extends TeqaniYoutubePlayerPlatform {
     await methodChannel.invokeMethod<void>('unmute');
   }
   
+  @override
+  Future<bool> isWarmUpComplete() async {
+    try {
+      final complete = await methodChannel.invokeMethod<bool>('isWarmUpComplete');
+      return complete ?? false;
+    } on MissingPluginException {
+      // Warm-up is only implemented on Android
+      return false;
+    }
+  }
+  
+  @override
+  Future<Map<String, dynamic>> getWarmUpStats() async {
+    try {
+      final stats = await methodChannel.invokeMapMethod<String, dynamic>('getWarmUpStats');
+      return stats ?? <String, dynamic>{};
+    } on MissingPluginException {
+      return <String, dynamic>{};
+    }
+  }
+  
   @override
   Future<void> dispose() async {
     await methodChannel.invokeMethod<void>('dispose');
@@ -95,6 +95,16 @@ abstract class TeqaniYoutubePlayerPlatform extends PlatformInterface {
     throw UnimplementedError('unmute() has not been implemented.');
   }
   
+  /// Whether the native WebView warm-up started at plugin attach has finished
+  Future<bool> isWarmUpComplete() {
+    throw UnimplementedError('isWarmUpComplete() has not been implemented.');
+  }
+  
+  /// Timing of the WebView warm-up and of the first player creation
+  Future<Map<String, dynamic>> getWarmUpStats() {
+    throw UnimplementedError('getWarmUpStats() has not been implemented.');
+  }
+  
   /// Clean up resources
   Future<void> dispose() {
     throw UnimplementedError('dispose() has not been implemented.');
@@ -38,4 +38,34 @@ void main() {
     // If it reaches here without exception, the test passes
     expect(true, isTrue);
   });
+
+  test('isWarmUpComplete', () async {
+    TestDefaultBinaryMessengerBinding.instance.defaultBinaryMessenger.setMockMethodCallHandler(
+      channel,
+      (MethodCall methodCall) async {
+        expect(methodCall.method, 'isWarmUpComplete');
+        return true;
+      },
+    );
+    expect(await platform.isWarmUpComplete(), isTrue);
+  });
+
+  test('getWarmUpStats', () async {
+    TestDefaultBinaryMessengerBinding.instance.defaultBinaryMessenger.setMockMethodCallHandler(
+      channel,
+      (MethodCall methodCall) async {
+        expect(methodCall.method, 'getWarmUpStats');
+        return <String, dynamic>{'complete': true, 'providerLoadMs': 120};
+      },
+    );
+    final stats = await platform.getWarmUpStats();
+    expect(stats['complete'], isTrue);
+    expect(stats['providerLoadMs'], 120);
+  });
+
+  test('warm-up methods fall back when not implemented', () async {
+    TestDefaultBinaryMessengerBinding.instance.defaultBinaryMessenger.setMockMethodCallHandler(channel, null);
+    expect(await platform.isWarmUpComplete(), isFalse);
+    expect(await platform.getWarmUpStats(), isEmpty);
+  });
 }
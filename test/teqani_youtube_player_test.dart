@@ -67,6 +67,12 @@ class MockTeqaniYoutubePlayerPlatform
   @override
   Future<void> unmute() async {}
   
+  @override
+  Future<bool> isWarmUpComplete() async => true;
+  
+  @override
+  Future<Map<String, dynamic>> getWarmUpStats() async => {};
+  
   @override
   Future<void> dispose() async {}
 }